@@ -0,0 +1,108 @@
+#!/usr/bin/env bash
+# Measures time from launch to the first successful GET /api/backend-health.
+#
+# Usage: scripts/startup-benchmark.sh <launch command...>
+#   scripts/startup-benchmark.sh java -jar target/backend-0.0.1-SNAPSHOT.jar
+#   SPRING_PROFILES_ACTIVE=prod scripts/startup-benchmark.sh java -Dspring.aot.enabled=true -jar target/backend-0.0.1-SNAPSHOT.jar
+#
+# Environment: RUNS (default 5), PORT (default 8080), TIMEOUT_SECONDS (default 60)
+set -euo pipefail
+
+if [ "$#" -eq 0 ]; then
+  sed -n '2,9p' "$0" | sed 's/^# \{0,1\}//'
+  exit 1
+fi
+
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8080}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-60}"
+HEALTH_URL="http://localhost:${PORT}/api/backend-health"
+
+# Millisecond wall clock; date +%N is GNU-only, perl is available on Linux and macOS
+now_ms() {
+  perl -MTime::HiRes=time -e 'printf "%d\n", time * 1000'
+}
+
+pid=""
+
+# Sends SIGTERM to the launch's process group and escalates to SIGKILL
+# if it is still running after TIMEOUT_SECONDS
+stop_backend() {
+  if [ -n "$pid" ]; then
+    kill -- -"$pid" 2>/dev/null || true
+    local stop_deadline=$(( $(now_ms) + TIMEOUT_SECONDS * 1000 ))
+    while kill -0 -- -"$pid" 2>/dev/null; do
+      if [ "$(now_ms)" -ge "$stop_deadline" ]; then
+        echo "backend ignored SIGTERM for ${TIMEOUT_SECONDS}s; sending SIGKILL" >&2
+        kill -KILL -- -"$pid" 2>/dev/null || true
+        break
+      fi
+      sleep 0.1
+    done
+    wait "$pid" 2>/dev/null || true
+    pid=""
+  fi
+}
+
+trap stop_backend EXIT
+trap 'exit 130' INT
+trap 'exit 143' TERM
+
+if curl -fs -o /dev/null "$HEALTH_URL"; then
+  echo "Something is already answering on $HEALTH_URL; stop it first." >&2
+  exit 1
+fi
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+  start=$(now_ms)
+  # Each launch runs in its own process group so that child processes
+  # (sh -c, mvn spring-boot:run, ...) are stopped together with it
+  set -m
+  "$@" >/dev/null 2>&1 &
+  pid=$!
+  set +m
+  deadline=$((start + TIMEOUT_SECONDS * 1000))
+
+  elapsed=""
+  while [ "$(now_ms)" -lt "$deadline" ]; do
+    if curl -fs -o /dev/null "$HEALTH_URL"; then
+      elapsed=$(( $(now_ms) - start ))
+      break
+    fi
+    if ! kill -0 "$pid" 2>/dev/null; then
+      break
+    fi
+    sleep 0.05
+  done
+
+  if [ -z "$elapsed" ]; then
+    if kill -0 "$pid" 2>/dev/null; then
+      echo "run $run: backend did not answer within ${TIMEOUT_SECONDS}s" >&2
+    else
+      echo "run $run: launch command exited before the backend answered" >&2
+    fi
+    exit 1
+  fi
+
+  stop_backend
+  # Let the port free up before the next launch
+  deadline=$(( $(now_ms) + TIMEOUT_SECONDS * 1000 ))
+  while curl -fs -o /dev/null "$HEALTH_URL"; do
+    if [ "$(now_ms)" -ge "$deadline" ]; then
+      echo "run $run: $HEALTH_URL still answering ${TIMEOUT_SECONDS}s after stopping the backend" >&2
+      exit 1
+    fi
+    sleep 0.1
+  done
+
+  echo "run $run: ${elapsed} ms"
+  results+=("$elapsed")
+done
+
+printf '%s\n' "${results[@]}" | sort -n | awk '
+  { v[NR] = $1; sum += $1 }
+  END {
+    median = (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2
+    printf "runs=%d min=%d ms median=%d ms mean=%d ms max=%d ms\n", NR, v[1], median, sum / NR, v[NR]
+  }'